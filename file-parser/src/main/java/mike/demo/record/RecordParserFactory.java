@@ -1,6 +1,10 @@
 package mike.demo.record;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import mike.bootstrap.utilities.helpers.Strings;
@@ -21,6 +25,10 @@ public class RecordParserFactory {
         return new FixedRecordParser(structure);
     }
 
+    public static MultiRecordParserBuilder multi(int offset, int length) {
+        return new MultiRecordParserBuilder(offset, length);
+    }
+
     /**
      * A parser implementation for CSV (Comma-Separated Values) records.
      * <p>
@@ -60,7 +68,7 @@ public class RecordParserFactory {
                         .formatted(lineCounter, fields.size(), values.length));
             }
 
-            return new RecordValues(this.valuesOf(values));
+            return new RecordValues(structure.name(), this.valuesOf(values));
         }
 
         private List<RecordValue> valuesOf(String[] values) {
@@ -106,7 +114,7 @@ public class RecordParserFactory {
                         .formatted(lineCounter, expectedLength, line.length()));
             }
 
-            return new RecordValues(this.valuesOf(line));
+            return new RecordValues(structure.name(), this.valuesOf(line));
         }
 
         private List<RecordValue> valuesOf(String line) {
@@ -118,4 +126,284 @@ public class RecordParserFactory {
             .toList();
         }
     }
+
+    /**
+     * A {@link RecordParser} implementation for fixed-width files mixing several record layouts
+     * (e.g. header / detail / trailer).
+     * <p>
+     * Each line is routed to its {@link RecordStruct} in a single pass using a table lookup on the
+     * record type code located at the discriminator offset and length. Records are counted per layout.
+     * </p>
+     * <p>
+     * When a trailer layout is declared, its control fields (record counts and numeric sums) are
+     * verified as soon as the trailer line is parsed, against the records read since the previous trailer.
+     * Any mismatch, unknown record type or line too short raises an {@link IllegalStateException}.
+     * </p>
+     */
+    public static class MultiRecordParser implements RecordParser {
+
+        private final int offset;
+        private final int length;
+        private final Map<String, Layout> layouts;
+        private final Layout trailer;
+        private final List<TrailerCheck> checks;
+
+        private int lineCounter = 0;
+        private boolean trailerPending = false;
+
+        private MultiRecordParser(MultiRecordParserBuilder builder) {
+            this.offset = builder.offset;
+            this.length = builder.length;
+            this.layouts = new LinkedHashMap<>();
+            builder.structures.forEach((code, structure) -> layouts.put(code, new Layout(structure)));
+            this.trailer = builder.trailerCode == null ? null : layouts.get(builder.trailerCode);
+            this.checks = builder.checks.stream().map(this::resolve).toList();
+        }
+
+        @Override
+        public RecordValues parse(String line) {
+
+            lineCounter++;
+
+            if (line.length() < offset + length) {
+                throw new IllegalStateException(
+                    "Invalid line size at line %d (expected at least: %d, got: %d)"
+                        .formatted(lineCounter, offset + length, line.length()));
+            }
+
+            var code = line.substring(offset, offset + length);
+            var layout = layouts.get(code);
+
+            if (layout == null) {
+                throw new IllegalStateException(
+                    "Unknown record type '%s' at line %d".formatted(code, lineCounter));
+            }
+
+            var expectedLength = layout.structure.length();
+
+            if (line.length() < expectedLength) {
+                throw new IllegalStateException(
+                    "Invalid line size at line %d (expected: %d, got: %d)"
+                        .formatted(lineCounter, expectedLength, line.length()));
+            }
+
+            var values = layout.parser.valuesOf(line);
+            layout.count++;
+
+            if (layout == trailer) {
+                this.verify(values);
+            } else {
+                layout.accumulate(values);
+                trailerPending = trailer != null;
+            }
+
+            return new RecordValues(layout.structure.name(), values);
+        }
+
+        /**
+         * Returns the number of records parsed so far for each record type code.
+         */
+        public Map<String, Integer> counters() {
+            var counters = new LinkedHashMap<String, Integer>();
+            layouts.forEach((code, layout) -> counters.put(code, layout.count));
+            return counters;
+        }
+
+        /**
+         * Ensures the last records read have been closed by a trailer record (if a trailer is declared).
+         * To be called once the end of the input has been reached.
+         */
+        public void complete() {
+            if (trailerPending) {
+                throw new IllegalStateException(
+                    "Missing trailer record after line %d".formatted(lineCounter));
+            }
+        }
+
+        private void verify(List<RecordValue> values) {
+
+            for (var check : checks) {
+                var expected = ((Number) values.get(check.trailerIndex).value()).longValue();
+                var actual = check.sumIndex < 0 ? check.layout.batchCount : check.layout.batchSums[check.sumIndex];
+
+                if (expected != actual) {
+                    throw new IllegalStateException(
+                        "Trailer field '%s' mismatch at line %d (expected: %d, got: %d)"
+                            .formatted(check.trailerField, lineCounter, expected, actual));
+                }
+            }
+
+            layouts.values().forEach(Layout::reset);
+            trailerPending = false;
+        }
+
+        private TrailerCheck resolve(MultiRecordParserBuilder.Check check) {
+
+            var layout = layouts.get(check.code());
+
+            if (layout == null) {
+                throw new IllegalArgumentException(
+                    "Trailer field '%s' refers to an unknown record type '%s'".formatted(check.trailerField(), check.code()));
+            }
+
+            if (layout == trailer) {
+                throw new IllegalArgumentException(
+                    "Trailer field '%s' cannot refer to the trailer record type '%s'".formatted(check.trailerField(), check.code()));
+            }
+
+            var trailerIndex = indexOf(trailer.structure, check.trailerField());
+            var sumIndex = check.field() == null ? -1 : layout.sumOf(indexOf(layout.structure, check.field()));
+
+            return new TrailerCheck(check.trailerField(), trailerIndex, layout, sumIndex);
+        }
+
+        private static int indexOf(RecordStruct structure, String fieldName) {
+            var fields = structure.fields();
+
+            for (int i = 0; i < fields.size(); i++) {
+                if (fields.get(i).name().equals(fieldName)) {
+                    if (fields.get(i).type() != Integer.class) {
+                        throw new IllegalArgumentException(
+                            "Field '%s' of schema '%s' is not a number field".formatted(fieldName, structure.name()));
+                    }
+                    return i;
+                }
+            }
+
+            throw new IllegalArgumentException(
+                "Field '%s' not found in schema '%s'".formatted(fieldName, structure.name()));
+        }
+
+        private record TrailerCheck(String trailerField, int trailerIndex, Layout layout, int sumIndex) {}
+
+        private static class Layout {
+
+            private final RecordStruct structure;
+            private final FixedRecordParser parser;
+            private final List<Integer> sumIndexes = new ArrayList<>();
+
+            private int count = 0;
+            private int batchCount = 0;
+            private long[] batchSums = new long[0];
+
+            private Layout(RecordStruct structure) {
+                this.structure = structure;
+                this.parser = new FixedRecordParser(structure);
+            }
+
+            private int sumOf(int fieldIndex) {
+                var idx = sumIndexes.indexOf(fieldIndex);
+
+                if (idx < 0) {
+                    sumIndexes.add(fieldIndex);
+                    batchSums = new long[sumIndexes.size()];
+                    idx = sumIndexes.size() - 1;
+                }
+
+                return idx;
+            }
+
+            private void accumulate(List<RecordValue> values) {
+                batchCount++;
+
+                for (int i = 0; i < batchSums.length; i++) {
+                    batchSums[i] += ((Number) values.get(sumIndexes.get(i)).value()).longValue();
+                }
+            }
+
+            private void reset() {
+                batchCount = 0;
+                Arrays.fill(batchSums, 0L);
+            }
+        }
+    }
+
+    /**
+     * Builder of {@link MultiRecordParser}.
+     * <p>
+     * The record type of each line is read at the given discriminator offset and length,
+     * then mapped to the {@link RecordStruct} registered for that code.
+     * </p>
+     * <p>
+     * Any misconfiguration raises an {@link IllegalArgumentException}.
+     * </p>
+     */
+    public static class MultiRecordParserBuilder {
+
+        private final int offset;
+        private final int length;
+        private final Map<String, RecordStruct> structures = new LinkedHashMap<>();
+        private final List<Check> checks = new ArrayList<>();
+
+        private String trailerCode;
+
+        private MultiRecordParserBuilder(int offset, int length) {
+
+            if (offset < 0 || length <= 0) {
+                throw new IllegalArgumentException(
+                    "Invalid record type discriminator (offset: %d, length: %d)".formatted(offset, length));
+            }
+
+            this.offset = offset;
+            this.length = length;
+        }
+
+        public MultiRecordParserBuilder addStruct(String code, RecordStruct structure) {
+
+            if (code == null || code.length() != length) {
+                throw new IllegalArgumentException(
+                    "Invalid record type '%s' (expected length: %d)".formatted(code, length));
+            }
+
+            if (structures.putIfAbsent(code, structure) != null) {
+                throw new IllegalArgumentException("Duplicate record type '%s'".formatted(code));
+            }
+
+            return this;
+        }
+
+        public MultiRecordParserBuilder addTrailer(String code, RecordStruct structure) {
+
+            if (trailerCode != null) {
+                throw new IllegalArgumentException(
+                    "Trailer record type already registered: '%s'".formatted(trailerCode));
+            }
+
+            this.addStruct(code, structure);
+            this.trailerCode = code;
+            return this;
+        }
+
+        /**
+         * The trailer field {@code trailerField} holds the number of records of type {@code code}.
+         */
+        public MultiRecordParserBuilder checkCount(String trailerField, String code) {
+            this.checks.add(new Check(trailerField, code, null));
+            return this;
+        }
+
+        /**
+         * The trailer field {@code trailerField} holds the sum of the number field {@code field}
+         * of the records of type {@code code}.
+         */
+        public MultiRecordParserBuilder checkSum(String trailerField, String code, String field) {
+            this.checks.add(new Check(trailerField, code, field));
+            return this;
+        }
+
+        public MultiRecordParser build() {
+
+            if (structures.isEmpty()) {
+                throw new IllegalArgumentException("At least one record structure is required");
+            }
+
+            if (trailerCode == null && !checks.isEmpty()) {
+                throw new IllegalArgumentException("Trailer checks require a trailer record structure");
+            }
+
+            return new MultiRecordParser(this);
+        }
+
+        private record Check(String trailerField, String code, String field) {}
+    }
 }
@@ -2,6 +2,9 @@ package mike.demo.record;
 
 import java.util.List;
 
-public record RecordValues(List<RecordValue> fieldValues) {
+public record RecordValues(String structure, List<RecordValue> fieldValues) {
 
+    public RecordValues(List<RecordValue> fieldValues) {
+        this("unknown", fieldValues);
+    }
 }
@@ -1,6 +1,11 @@
 package mike.demo.unit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Nested;
@@ -9,6 +14,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import mike.demo.record.RecordParserFactory;
+import mike.demo.record.RecordParserFactory.MultiRecordParser;
+import mike.demo.record.RecordStruct;
 
 class RecordParserTest implements RecordStructTestSupport {
 
@@ -44,4 +51,184 @@ class RecordParserTest implements RecordStructTestSupport {
             assertThat(listOfEecordValues).hasSize(3);
         }
     }
+
+    @Nested
+    class MultiRecords {
+
+        private MultiRecordParser multiParser() {
+            return RecordParserFactory.multi(0, 1)
+                .addStruct("H", HEADER_STRUCT)
+                .addStruct("D", DETAIL_STRUCT)
+                .addTrailer("T", TRAILER_STRUCT)
+                .checkCount("RECORD_COUNT", "D")
+                .checkSum("ID_TOTAL", "D", "ID")
+                .build();
+        }
+
+        @Test
+        void should_return_parsed_records_by_record_type() {
+
+            var recordParser = multiParser();
+            var listOfRecordValues = MULTI_LINES_SAMPLE.stream().map(recordParser::parse).toList();
+            recordParser.complete();
+
+            assertThat(listOfRecordValues).hasSize(5);
+            assertThat(listOfRecordValues.get(0).structure()).isEqualTo("HEADER_SCHEMA");
+            assertThat(listOfRecordValues.get(1).structure()).isEqualTo("DETAIL_SCHEMA");
+            assertThat(listOfRecordValues.get(4).structure()).isEqualTo("TRAILER_SCHEMA");
+            assertThat(recordParser.counters()).containsEntry("H", 1).containsEntry("D", 3).containsEntry("T", 1);
+        }
+
+        @Test
+        void should_throw_IllegalStateException_when_record_type_is_unknown() {
+
+            var recordParser = multiParser();
+
+            assertThatIllegalStateException()
+                .isThrownBy(() -> recordParser.parse("X12345"))
+                .withMessageContaining("Unknown record type 'X'");
+        }
+
+        @Test
+        void should_throw_IllegalStateException_when_trailer_count_mismatch() {
+
+            var recordParser = multiParser();
+            var lines = new ArrayList<>(MULTI_LINES_SAMPLE);
+            lines.remove(2);
+
+            assertThatIllegalStateException()
+                .isThrownBy(() -> lines.forEach(recordParser::parse))
+                .withMessageContaining("RECORD_COUNT");
+        }
+
+        @Test
+        void should_throw_IllegalStateException_when_trailer_sum_mismatch() {
+
+            var recordParser = multiParser();
+            var lines = new ArrayList<>(MULTI_LINES_SAMPLE);
+            lines.set(4, "T0000000300033579");
+
+            assertThatIllegalStateException()
+                .isThrownBy(() -> lines.forEach(recordParser::parse))
+                .withMessageContaining("ID_TOTAL");
+        }
+
+        @Test
+        void should_verify_each_batch_when_several_trailers() {
+
+            var recordParser = multiParser();
+            var lines = List.of(
+                MULTI_LINES_SAMPLE.get(0),
+                MULTI_LINES_SAMPLE.get(1),
+                MULTI_LINES_SAMPLE.get(2),
+                "T0000000200019999",
+                "H20250102",
+                MULTI_LINES_SAMPLE.get(3),
+                "T0000000100013579"
+            );
+
+            lines.forEach(recordParser::parse);
+            recordParser.complete();
+
+            assertThat(recordParser.counters()).containsEntry("H", 2).containsEntry("D", 3).containsEntry("T", 2);
+        }
+
+        @Test
+        void should_return_parsed_records_when_record_type_is_not_at_line_start() {
+
+            var structure = RecordStruct.name("SEQ_SCHEMA")
+                .addNumberField("SEQ", 4)
+                .addTextField("TYPE", 1)
+                .addTextField("DATA", 5)
+                .build();
+
+            var recordParser = RecordParserFactory.multi(4, 1).addStruct("A", structure).build();
+
+            assertThat(recordParser.parse("0001AHello").structure()).isEqualTo("SEQ_SCHEMA");
+            assertThat(recordParser.counters()).containsEntry("A", 1);
+
+            assertThatIllegalStateException()
+                .isThrownBy(() -> recordParser.parse("001"))
+                .withMessageContaining("Invalid line size at line 2");
+        }
+
+        @Test
+        void should_throw_IllegalStateException_when_trailer_is_missing() {
+
+            var recordParser = multiParser();
+            MULTI_LINES_SAMPLE.subList(0, 4).forEach(recordParser::parse);
+
+            assertThatIllegalStateException()
+                .isThrownBy(recordParser::complete)
+                .withMessageContaining("Missing trailer");
+        }
+
+        @Test
+        void should_throw_IllegalArgumentException_when_record_type_is_duplicated() {
+
+            var builder = RecordParserFactory.multi(0, 1).addStruct("D", DETAIL_STRUCT);
+
+            assertThatIllegalArgumentException()
+                .isThrownBy(() -> builder.addStruct("D", HEADER_STRUCT))
+                .withMessageContaining("Duplicate record type 'D'");
+        }
+
+        @Test
+        void should_throw_IllegalArgumentException_when_record_type_has_invalid_length() {
+
+            var builder = RecordParserFactory.multi(0, 1);
+
+            assertThatIllegalArgumentException()
+                .isThrownBy(() -> builder.addStruct("DD", DETAIL_STRUCT))
+                .withMessageContaining("Invalid record type 'DD'");
+        }
+
+        @Test
+        void should_throw_IllegalArgumentException_when_trailer_is_registered_twice() {
+
+            var builder = RecordParserFactory.multi(0, 1).addTrailer("T", TRAILER_STRUCT);
+
+            assertThatIllegalArgumentException()
+                .isThrownBy(() -> builder.addTrailer("Z", TRAILER_STRUCT))
+                .withMessageContaining("Trailer record type already registered");
+        }
+
+        @Test
+        void should_throw_IllegalArgumentException_when_sum_field_is_not_a_number() {
+
+            var builder = RecordParserFactory.multi(0, 1)
+                .addStruct("D", DETAIL_STRUCT)
+                .addTrailer("T", TRAILER_STRUCT)
+                .checkSum("ID_TOTAL", "D", "NAME");
+
+            assertThatIllegalArgumentException()
+                .isThrownBy(builder::build)
+                .withMessageContaining("Field 'NAME' of schema 'DETAIL_SCHEMA' is not a number field");
+        }
+
+        @Test
+        void should_throw_IllegalArgumentException_when_check_refers_to_trailer() {
+
+            var builder = RecordParserFactory.multi(0, 1)
+                .addStruct("D", DETAIL_STRUCT)
+                .addTrailer("T", TRAILER_STRUCT)
+                .checkCount("RECORD_COUNT", "T");
+
+            assertThatIllegalArgumentException()
+                .isThrownBy(builder::build)
+                .withMessageContaining("cannot refer to the trailer record type 'T'");
+        }
+
+        @Test
+        void should_throw_IllegalArgumentException_when_checks_without_trailer() {
+
+            var builder = RecordParserFactory.multi(0, 1)
+                .addStruct("D", DETAIL_STRUCT)
+                .checkCount("RECORD_COUNT", "D");
+
+            assertThatIllegalArgumentException()
+                .isThrownBy(builder::build)
+                .withMessageContaining("Trailer checks require a trailer record structure");
+        }
+    }
 }
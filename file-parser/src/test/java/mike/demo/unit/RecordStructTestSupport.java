@@ -27,4 +27,32 @@ interface RecordStructTestSupport {
         .addTextField("GENDER", 1, s -> s.equals("M") || s.equals("F"))
         .addTextField("COUNTRY", 3, "")
         .build();
+
+    static final List<String> MULTI_LINES_SAMPLE = List.of(
+        "H20250101",
+        "D12345   John Doe            19850515MUSA",
+        "D7654    Jane Smith          19921230FCAN",
+        "D13579   Bob Johnson         19770707MGBR",
+        "T0000000300033578"
+    );
+
+    static final RecordStruct HEADER_STRUCT = RecordStruct.name("HEADER_SCHEMA")
+        .addTextField("TYPE", 1)
+        .addDateField("FILE_DATE", "yyyyMMdd")
+        .build();
+
+    static final RecordStruct DETAIL_STRUCT = RecordStruct.name("DETAIL_SCHEMA")
+        .addTextField("TYPE", 1)
+        .addNumberField("ID", 8, n -> Utils.between(n, 1, 99999999))
+        .addTextField("NAME", 20)
+        .addDateField("BIRTH_DATE", "yyyyMMdd", d -> d.isAfter(LocalDate.of(1900, 1, 1)))
+        .addTextField("GENDER", 1, s -> s.equals("M") || s.equals("F"))
+        .addTextField("COUNTRY", 3, "")
+        .build();
+
+    static final RecordStruct TRAILER_STRUCT = RecordStruct.name("TRAILER_SCHEMA")
+        .addTextField("TYPE", 1)
+        .addNumberField("RECORD_COUNT", 8)
+        .addNumberField("ID_TOTAL", 8)
+        .build();
 }